@@ -106,6 +106,30 @@ INSERT INTO `contracts` VALUES (2,1,1,1179506,1000),(3,1,2,3966788,500),(4,2,3,6
 /*!40000 ALTER TABLE `contracts` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `id_sequences`
+--
+
+DROP TABLE IF EXISTS `id_sequences`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8 */;
+CREATE TABLE `id_sequences` (
+  `sequence_name` varchar(50) NOT NULL,
+  `next_val` bigint(20) NOT NULL,
+  PRIMARY KEY (`sequence_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=latin1;
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `id_sequences`
+--
+
+LOCK TABLES `id_sequences` WRITE;
+/*!40000 ALTER TABLE `id_sequences` DISABLE KEYS */;
+INSERT INTO `id_sequences` VALUES ('contracts',7),('options',8),('tariffs',5),('users',4);
+/*!40000 ALTER TABLE `id_sequences` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `option_locking`
 --